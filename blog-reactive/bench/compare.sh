@@ -0,0 +1,72 @@
+#!/usr/bin/env bash
+# Compare blog-app (Spring MVC + JPA) and blog-reactive (WebFlux + R2DBC) on the public read endpoints.
+# For each concurrency level, reports p50/p99 latency (from wrk), peak RSS, and RSS growth per open connection.
+# JVM RSS does not shrink between runs, so growth is measured against a baseline taken after a short warm-up,
+# and the absolute peak is printed alongside it.
+#
+# Both servers must already be running against the same database.
+# Usage: MVC_PID=<pid> REACTIVE_PID=<pid> ./compare.sh
+# Requires: wrk, ps
+
+set -euo pipefail
+
+MVC_URL=${MVC_URL:-http://localhost:8081}
+REACTIVE_URL=${REACTIVE_URL:-http://localhost:8082}
+ENDPOINT=${ENDPOINT:-/api/posts?page=0&size=5}
+CONNECTIONS=${CONNECTIONS:-"100 500 1000 2000"}
+THREADS=${THREADS:-8}
+DURATION=${DURATION:-30s}
+WARMUP=${WARMUP:-15s}
+
+: "${MVC_PID:?set MVC_PID to the blog-app process id}"
+: "${REACTIVE_PID:?set REACTIVE_PID to the blog-reactive process id}"
+
+rss_kb() {
+    ps -o rss= -p "$1" | tr -d ' '
+}
+
+# Low-concurrency run so JIT, pools, and buffers are allocated before the baseline is taken.
+warmup() {
+    wrk -t2 -c10 -d"$WARMUP" "$1$ENDPOINT" > /dev/null
+}
+
+# Runs wrk in the background and samples RSS while it is under load.
+run() {
+    local name=$1 url=$2 pid=$3 conns=$4 baseline=$5
+    local peak out
+    peak=$(rss_kb "$pid")
+
+    out=$(mktemp)
+    wrk -t"$THREADS" -c"$conns" -d"$DURATION" --latency "$url$ENDPOINT" > "$out" &
+    local wrk_pid=$!
+    while kill -0 "$wrk_pid" 2>/dev/null; do
+        local now
+        now=$(rss_kb "$pid")
+        (( now > peak )) && peak=$now
+        sleep 1
+    done
+
+    local p50 p99 rps
+    p50=$(awk '$1 == "50%" {print $2}' "$out")
+    p99=$(awk '$1 == "99%" {print $2}' "$out")
+    rps=$(awk '/Requests\/sec/ {print $2}' "$out")
+    rm -f "$out"
+
+    local per_conn
+    per_conn=$(awk -v peak="$peak" -v base="$baseline" -v c="$conns" 'BEGIN { printf "%.2f", (peak - base) / c }')
+
+    printf '%-9s %6s %10s %10s %12s %12s %10s\n' \
+        "$name" "$conns" "$p50" "$p99" "$rps" "$peak" "$per_conn"
+}
+
+warmup "$MVC_URL"
+warmup "$REACTIVE_URL"
+MVC_BASELINE=$(rss_kb "$MVC_PID")
+REACTIVE_BASELINE=$(rss_kb "$REACTIVE_PID")
+echo "baseline RSS after warm-up (KB): mvc=$MVC_BASELINE reactive=$REACTIVE_BASELINE"
+
+printf '%-9s %6s %10s %10s %12s %12s %10s\n' server conns p50 p99 req/s "peak RSS KB" "KB/conn"
+for c in $CONNECTIONS; do
+    run mvc "$MVC_URL" "$MVC_PID" "$c" "$MVC_BASELINE"
+    run reactive "$REACTIVE_URL" "$REACTIVE_PID" "$c" "$REACTIVE_BASELINE"
+done
@@ -0,0 +1,43 @@
+package com.example.blog_reactive;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point for the optional reactive read server.
+ * Serves the public GET post endpoints over WebFlux + R2DBC; admin writes stay on blog-app.
+ */
+@SpringBootApplication
+public class BlogReactiveApplication {
+	public static void main(String[] args) {
+		SpringApplication.run(BlogReactiveApplication.class, args);
+	}
+
+	/* Import Local and Deployed Frontend */
+	@Value("${CORS_ORIGINS}")
+	private String corsOrigins; // comma-separated
+
+	/**
+	 * Configure CORS settings for API endpoints.
+	 * Same defaults as blog-app's CorsRegistry mapping (all headers, 1800s max-age),
+	 * but only read methods are exposed here.
+	 */
+	@Bean
+	public CorsWebFilter corsWebFilter() {
+		CorsConfiguration config = new CorsConfiguration().applyPermitDefaultValues();
+		config.setAllowedOrigins(Arrays.asList(corsOrigins.split(",")));
+		config.setAllowedMethods(List.of("GET", "OPTIONS"));
+		config.setAllowCredentials(true);
+
+		UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+		source.registerCorsConfiguration("/api/**", config);
+		return new CorsWebFilter(source);
+	}
+}
@@ -0,0 +1,33 @@
+package com.example.blog_reactive;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+import java.time.LocalDateTime;
+
+/**
+ * Read model for a blog post, mapped onto the "posts" table that blog-app manages through JPA.
+ * Field names match blog-app's Post so both servers produce the same JSON.
+ */
+@Table("posts")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Post {
+    @Id
+    private Long id;
+
+    private String title;
+
+    private String content;
+
+    private String author;
+
+    private String subject;
+
+    private String imageUrl;
+
+    private String category;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,169 @@
+package com.example.blog_reactive;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Handler functions for the public post endpoints.
+ * Returns the same JSON as blog-app's PostController GET mappings, without blocking a thread per request.
+ */
+@Component
+public class PostHandler {
+    private final PostRepository repository;
+    private final Path uploadsDir;
+
+    public PostHandler(PostRepository repository, @Value("${app.uploads.dir:uploads}") String uploadsDir) {
+        this.repository = repository;
+        this.uploadsDir = Paths.get(uploadsDir).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Fetch a paginated list of posts, potentially filtered by category (blog/project)
+     * The page and its total count are queried concurrently.
+     */
+    public Mono<ServerResponse> getPosts(ServerRequest request) {
+        String category = request.queryParam("category").orElse(null);
+        Pageable pageable = PageRequest.of(intParam(request, "page", 0), intParam(request, "size", 5));
+
+        Mono<Long> total = hasCategory(category)
+                ? repository.countByCategory(category)
+                : repository.count();
+
+        return Mono.zip(findPage(category, pageable).collectList(), total)
+                .map(tuple -> toResponse(new PageImpl<>(tuple.getT1(), pageable, tuple.getT2())))
+                .flatMap(response -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(response));
+    }
+
+    /**
+     * Stream one page of posts as newline-delimited JSON.
+     * Each post is written as soon as its row arrives, without the page metadata.
+     */
+    public Mono<ServerResponse> streamPosts(ServerRequest request) {
+        String category = request.queryParam("category").orElse(null);
+        Pageable pageable = PageRequest.of(intParam(request, "page", 0), intParam(request, "size", 5));
+
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(findPage(category, pageable), Post.class);
+    }
+
+    /**
+     * Serve uploaded images
+     * The file is written straight from disk (zero-copy on Netty) rather than read into a byte array.
+     */
+    public Mono<ServerResponse> getImage(ServerRequest request) {
+        Path filePath = resolveUpload(request.pathVariable("filename"));
+        if (filePath == null) {
+            return ServerResponse.notFound().build();
+        }
+        FileSystemResource image = new FileSystemResource(filePath);
+
+        // File existence check is a blocking syscall, keep it off the event loop
+        return Mono.fromCallable(image::isReadable)
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(readable -> readable
+                        ? ServerResponse.ok()
+                                .contentType(MediaType.IMAGE_JPEG)
+                                .body(BodyInserters.fromResource(image))
+                        : ServerResponse.notFound().build());
+    }
+
+    /**
+     * Fetch a single post by ID
+     */
+    public Mono<ServerResponse> getPostById(ServerRequest request) {
+        Long id = longParam(request.pathVariable("id"));
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(new RuntimeException("Post not found with id: " + id)))
+                .flatMap(post -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(post));
+    }
+
+    /**
+     * Resolve a filename inside the uploads directory.
+     * Path variables arrive decoded, so "%2Fetc%2Fpasswd" or "..%2F" must be rejected here.
+     * Returns null if the name would point anywhere outside uploads/.
+     */
+    private Path resolveUpload(String filename) {
+        if (filename.contains("/") || filename.contains("\\") || filename.contains("..")) {
+            return null;
+        }
+        try {
+            Path filePath = uploadsDir.resolve(filename).normalize();
+            return filePath.startsWith(uploadsDir) ? filePath : null;
+        }
+        catch (InvalidPathException e) {
+            return null;
+        }
+    }
+
+    private Flux<Post> findPage(String category, Pageable pageable) {
+        if (hasCategory(category)) {
+            return repository.findByCategoryOrderByCreatedAtDesc(category, pageable);
+        }
+        return repository.findAllByOrderByCreatedAtDesc(pageable);
+    }
+
+    private static boolean hasCategory(String category) {
+        return category != null && !category.isEmpty();
+    }
+
+    // Build response
+    private static Map<String, Object> toResponse(Page<Post> postsPage) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("posts", postsPage.getContent());
+        response.put("currentPage", postsPage.getNumber());
+        response.put("totalPages", postsPage.getTotalPages());
+        response.put("totalElements", postsPage.getTotalElements());
+        response.put("hasNext", postsPage.hasNext());
+        response.put("hasPrevious", postsPage.hasPrevious());
+        return response;
+    }
+
+    /**
+     * Parse an optional int query parameter.
+     * Throws ServerWebInputException (400) if it is not a number, like @RequestParam binding does.
+     */
+    private static int intParam(ServerRequest request, String name, int defaultValue) {
+        return request.queryParam(name)
+                .map(value -> {
+                    try {
+                        return Integer.parseInt(value);
+                    }
+                    catch (NumberFormatException e) {
+                        throw new ServerWebInputException("Invalid value for '" + name + "': " + value);
+                    }
+                })
+                .orElse(defaultValue);
+    }
+
+    private static Long longParam(String value) {
+        try {
+            return Long.valueOf(value);
+        }
+        catch (NumberFormatException e) {
+            throw new ServerWebInputException("Invalid post id: " + value);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.blog_reactive;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of blog-app's PostRepository.
+ * Rows are emitted as they are read from the R2DBC connection instead of being collected into a Page.
+ */
+public interface PostRepository extends ReactiveCrudRepository<Post, Long> {
+    // Fetch all posts ordered by creation date (descending), limited to one page
+    Flux<Post> findAllByOrderByCreatedAtDesc(Pageable pageable);
+
+    // Fetch posts by category ordered by creation date (descending), limited to one page
+    Flux<Post> findByCategoryOrderByCreatedAtDesc(String category, Pageable pageable);
+
+    // Count posts in a category, used to build the page metadata
+    Mono<Long> countByCategory(String category);
+}
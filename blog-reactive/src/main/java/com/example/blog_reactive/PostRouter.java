@@ -0,0 +1,33 @@
+package com.example.blog_reactive;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * Maps the public /api/posts GET endpoints onto PostHandler.
+ * Only reads are routed here; POST, PUT, and DELETE remain on blog-app behind JWT auth.
+ */
+@Configuration
+public class PostRouter {
+    /**
+     * Fixed paths are registered before /{id} so they are not captured as an id.
+     * Also serves /uploads/**, where the image URLs stored in posts point (blog-app's WebConfig equivalent).
+     */
+    @Bean
+    public RouterFunction<ServerResponse> postRoutes(PostHandler handler,
+                                                     @Value("${app.uploads.dir:uploads}") String uploadsDir) {
+        return route()
+                .resources("/uploads/**", new FileSystemResource(uploadsDir + "/"))
+                .GET("/api/posts", handler::getPosts)
+                .GET("/api/posts/stream", handler::streamPosts)
+                .GET("/api/posts/uploads/{filename}", handler::getImage)
+                .GET("/api/posts/{id}", handler::getPostById)
+                .build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.blog_reactive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostHandlerTests {
+
+	private static final byte[] IMAGE_BYTES = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, 0x00, 0x42};
+
+	@TempDir
+	Path uploadsDir;
+
+	private PostRepository repository;
+	private WebTestClient client;
+
+	@BeforeEach
+	void setUp() {
+		repository = mock(PostRepository.class);
+		String uploads = uploadsDir.toString();
+		client = WebTestClient
+				.bindToRouterFunction(new PostRouter().postRoutes(new PostHandler(repository, uploads), uploads))
+				.build();
+	}
+
+	@Test
+	void getPostsReturnsPageEnvelope() {
+		when(repository.findByCategoryOrderByCreatedAtDesc(eq("blog"), any(Pageable.class)))
+				.thenReturn(Flux.just(post(7L), post(6L)));
+		when(repository.countByCategory("blog")).thenReturn(Mono.just(7L));
+
+		client.get().uri("/api/posts?category=blog&page=1&size=2")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.posts.length()").isEqualTo(2)
+				.jsonPath("$.posts[0].id").isEqualTo(7)
+				.jsonPath("$.currentPage").isEqualTo(1)
+				.jsonPath("$.totalPages").isEqualTo(4)
+				.jsonPath("$.totalElements").isEqualTo(7)
+				.jsonPath("$.hasNext").isEqualTo(true)
+				.jsonPath("$.hasPrevious").isEqualTo(true);
+	}
+
+	@Test
+	void streamPostsWritesNdjson() {
+		when(repository.findAllByOrderByCreatedAtDesc(any(Pageable.class)))
+				.thenReturn(Flux.just(post(2L), post(1L)));
+
+		client.get().uri("/api/posts/stream")
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+				.expectBodyList(Post.class).hasSize(2);
+	}
+
+	@Test
+	void getPostByIdReturnsPost() {
+		when(repository.findById(3L)).thenReturn(Mono.just(post(3L)));
+
+		client.get().uri("/api/posts/3")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.id").isEqualTo(3)
+				.jsonPath("$.title").isEqualTo("Post 3");
+	}
+
+	@Test
+	void getPostByIdRejectsNonNumericId() {
+		client.get().uri("/api/posts/abc")
+				.exchange()
+				.expectStatus().isBadRequest();
+	}
+
+	@Test
+	void getImageReturnsNotFoundForMissingFile() {
+		client.get().uri("/api/posts/uploads/missing.png")
+				.exchange()
+				.expectStatus().isNotFound();
+	}
+
+	@Test
+	void getImageServesUploadedFile() throws IOException {
+		Files.write(uploadsDir.resolve("photo.jpg"), IMAGE_BYTES);
+
+		client.get().uri("/api/posts/uploads/photo.jpg")
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().contentType(MediaType.IMAGE_JPEG)
+				.expectBody(byte[].class).isEqualTo(IMAGE_BYTES);
+	}
+
+	@Test
+	void getImageRejectsPathTraversal() throws IOException {
+		Files.write(uploadsDir.resolve("photo.jpg"), IMAGE_BYTES);
+
+		client.get().uri(URI.create("/api/posts/uploads/%2Fetc%2Fpasswd"))
+				.exchange()
+				.expectStatus().isNotFound();
+		client.get().uri(URI.create("/api/posts/uploads/..%2F..%2Fetc%2Fpasswd"))
+				.exchange()
+				.expectStatus().isNotFound();
+	}
+
+	@Test
+	void uploadsRouteServesStoredImageUrls() throws IOException {
+		Files.write(uploadsDir.resolve("photo.jpg"), IMAGE_BYTES);
+
+		client.get().uri("/uploads/photo.jpg")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody(byte[].class).isEqualTo(IMAGE_BYTES);
+		client.get().uri(URI.create("/uploads/..%2F..%2Fetc%2Fpasswd"))
+				.exchange()
+				.expectStatus().isNotFound();
+	}
+
+	private static Post post(Long id) {
+		return new Post(id, "Post " + id, "Content", "Alan", null, null, "blog", LocalDateTime.now());
+	}
+}